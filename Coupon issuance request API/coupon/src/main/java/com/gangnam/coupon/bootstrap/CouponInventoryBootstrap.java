@@ -26,6 +26,7 @@ import java.util.List;
  * - 목적
  *  A = 1, B = 30, C = 69 총 3개 Code의 초기 재고 생성
  *  테스트 환경에서 coupon.bootstrap.enabled로 on/off
+ *  시드 직후 available = 0 : 기동 완료 시 CouponReleaser 가 재고를 풀어줌
  */
 public class CouponInventoryBootstrap implements ApplicationRunner {
 
@@ -10,6 +10,11 @@ import lombok.NoArgsConstructor;
  * - 특정 쿠폰 코드 ( code ) 에 대한 현재 보유 재고 ( stock ) 을 관리하는 엔티티
  *  1. code는 고유 ( unique )
  *  2. stock 은 0 이상의 정수
+ *  3. 발급은 stock 과 available 이 모두 > 0 일 때만 가능
+ *     - total     : 캠페인 전체 수량 ( 생성 시 고정, 웨이브 목표치 계산 기준 )
+ *     - stock     : 전체 남은 재고 ( 하드 상한 )
+ *     - available : 릴리스 웨이브로 풀린 재고 중 아직 발급되지 않은 수량
+ *     - released  : 지금까지 누적으로 풀린 수량 ( 재시작 시 웨이브 진행 상태 복구용 )
  */
 @Entity
 @Table(name = "coupon_inventory")
@@ -29,6 +34,16 @@ public class CouponInventory {
     @Column(nullable = false)
     private int stock; // 남은 재고 > = 0
 
+    // 기존 행에도 컬럼 추가가 가능하도록 DEFAULT 0 ( 기동 시 CouponReleaser 가 total = stock 으로 보정 )
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int total; // 캠페인 전체 수량 ( 초기 재고 )
+
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int available; // 현재 발급 가능한 ( 풀린 ) 재고 >= 0
+
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int released; // 누적 릴리스 수량 ( 웨이브 진행 상태 )
+
     /**
      * 생성자 ( 팩토리 전용 )
      * - 외부에서 직접 new 하지 못하도록 package-private
@@ -44,6 +59,7 @@ public class CouponInventory {
             throw new IllegalArgumentException("초기 수량은 >=0");
         }
         this.code = code.trim();
+        this.total = initialStock;
         this.stock = initialStock;
     }
 }
@@ -0,0 +1,23 @@
+package com.gangnam.coupon.release;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 웨이브 릴리스 구성
+ * - CouponReleaseProperties 바인딩
+ * - 일정 ( CouponReleasePlan ) 을 빈으로 등록해 Gate / Releaser 가 공유
+ * - @Scheduled 활성화 ( CouponReleaseScheduler )
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(CouponReleaseProperties.class)
+public class CouponReleaseConfig {
+
+    @Bean
+    public CouponReleasePlan couponReleasePlan(CouponReleaseProperties properties) {
+        return CouponReleasePlan.from(properties);
+    }
+}
@@ -0,0 +1,85 @@
+package com.gangnam.coupon.release;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CouponReleaseGate
+ * - 현재 웨이브에서 소진된 코드를 메모리에 기록 ( 인스턴스 로컬 )
+ * - 소진된 코드는 다음 웨이브가 풀릴 때까지 DB 조회 / 차감 시도를 건너뜀
+ *   => 웨이브 사이 요청은 DB 쓰기 없이 " 다음 웨이브 시각 " 으로 응답
+ *
+ * 세대 ( generation )
+ * - 릴리스 후 reopen 할 때마다 1 증가 => 이전 세대의 소진 표시는 자동 무효
+ * - 요청은 시작 시 관측한 세대로 표시 => 느린 요청이 새 웨이브를 다시 막지 않음
+ *
+ * 재시도 시각
+ * - 시계가 아니라 실제로 열린 웨이브 ( openedWave ) 기준
+ *   => 웨이브 시각 ~ 다음 tick 사이에도 " 곧 열릴 웨이브 " 시각을 안내하고, 마지막 웨이브 전엔 품절로 답하지 않음
+ *
+ * - 표시가 틀려도 정합성엔 영향 없음 : 실제 판정은 항상 조건부 UPDATE 가 수행
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponReleaseGate {
+
+    private final CouponReleasePlan plan;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile int openedWave = 0; // 릴리스가 커밋된 누적 웨이브 수
+    private final Map<String, Long> drained = new ConcurrentHashMap<>(); // code -> 소진 표시한 세대
+
+    public long generation() {
+        return generation.get();
+    }
+
+    // 현재 세대에서 소진됨
+    public boolean isDrained(String code) {
+        Long markedAt = drained.get(code);
+        return markedAt != null && markedAt == generation.get();
+    }
+
+    /**
+     * 차감 실패 ( affected = 0 ) 시 호출
+     * @param observed 요청 시작 시 관측한 세대
+     */
+    public void markDrained(String code, long observed) {
+        drained.put(code, observed);
+    }
+
+    public int openedWave() {
+        return openedWave;
+    }
+
+    /**
+     * 재고가 풀린 뒤 ( 커밋 이후 ) 호출 ( CouponReleaser )
+     * - 다른 인스턴스가 먼저 릴리스했더라도 모든 코드를 다시 시도 가능
+     * @param wave 릴리스가 반영된 누적 웨이브 수
+     */
+    public void reopen(int wave) {
+        openedWave = Math.max(openedWave, wave);
+        generation.incrementAndGet();
+    }
+
+    // 주어진 코드가 모두 현재 세대에서 소진되었는지
+    public boolean allDrained(Collection<String> codes) {
+        return codes.stream().allMatch(this::isDrained);
+    }
+
+    /**
+     * 아직 열리지 않은 다음 웨이브 시각 ( 이미 지났을 수 있음 = 곧 열림 )
+     * - empty : 마지막 웨이브까지 열림 ( 소진 = 품절 )
+     */
+    public Optional<Instant> retryAt() {
+        int opened = openedWave;
+        if (opened >= plan.waves()) return Optional.empty();
+        return Optional.of(plan.waveAt(opened));
+    }
+}
@@ -0,0 +1,61 @@
+package com.gangnam.coupon.release;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * CouponReleasePlan
+ * - 웨이브 일정 계산 전용 ( 상태 없음, DB 접근 없음 )
+ * - 모든 값은 시각만으로 결정되므로 재시작 / 다중 인스턴스에서도 동일한 결과
+ *
+ * - 누적 목표치 ( total * k / waves ) 계산은 CouponInventoryRepository.releaseUpTo 가 담당
+ */
+public final class CouponReleasePlan {
+
+    private final Instant startAt;  // 첫 웨이브 시각
+    private final Duration interval; // 웨이브 간격
+    private final int waves;         // 웨이브 횟수
+
+    private CouponReleasePlan(Instant startAt, Duration interval, int waves) {
+        this.startAt = startAt;
+        this.interval = interval;
+        this.waves = waves;
+    }
+
+    /**
+     * 설정으로부터 일정 생성
+     * - 비활성화 시 : 과거 시점에 단일 웨이브 => 기동 즉시 전체 릴리스
+     */
+    public static CouponReleasePlan from(CouponReleaseProperties properties) {
+        if (!properties.enabled()) {
+            return new CouponReleasePlan(Instant.EPOCH, Duration.ofMillis(1), 1);
+        }
+        return new CouponReleasePlan(
+                properties.startAt().toInstant(),
+                properties.window().dividedBy(properties.waves()),
+                properties.waves());
+    }
+
+    /**
+     * now 시점까지 도래한 웨이브 수 ( 0 ~ waves )
+     * - start-at 이전이면 0, start-at 시각에 첫 웨이브가 열림
+     */
+    public int wavesDueAt(Instant now) {
+        if (now.isBefore(startAt)) return 0;
+        long elapsed = Duration.between(startAt, now).toMillis();
+        long due = elapsed / interval.toMillis() + 1;
+        return (int) Math.min(due, waves);
+    }
+
+    public int waves() {
+        return waves;
+    }
+
+    /**
+     * index 번째 웨이브 ( 0부터 ) 시각
+     * - 웨이브 index 가 열리면 누적 웨이브 수는 index + 1
+     */
+    public Instant waveAt(int index) {
+        return startAt.plus(interval.multipliedBy(index));
+    }
+}
@@ -0,0 +1,43 @@
+package com.gangnam.coupon.release;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * 재고 웨이브 릴리스 설정 ( coupon.release.* )
+ *
+ * - enabled = false : 서버 기동 시 전체 재고를 한 번에 릴리스 ( 기존 동작 )
+ * - enabled = true  : start-at 부터 window 동안 waves 번에 나눠 릴리스
+ *   * 웨이브 i ( 0부터 ) 의 시각 = start-at + i * ( window / waves )
+ *   * start-at 은 고정 시각이어야 재시작 후에도 같은 일정으로 이어짐
+ *
+ * @param enabled 웨이브 릴리스 사용 여부
+ * @param startAt 첫 웨이브 시각 ( ISO-8601, 예: 2026-10-20T10:00:00+09:00 )
+ * @param window 전체 릴리스 구간 길이
+ * @param waves 웨이브 횟수 ( >= 1 )
+ */
+@ConfigurationProperties(prefix = "coupon.release")
+public record CouponReleaseProperties(
+        @DefaultValue("false") boolean enabled,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime startAt,
+        @DefaultValue("10m") Duration window,
+        @DefaultValue("10") int waves
+) {
+    public CouponReleaseProperties {
+        if (enabled) {
+            if (startAt == null) {
+                throw new IllegalArgumentException("coupon.release.start-at 이 필요함.");
+            }
+            if (waves < 1) {
+                throw new IllegalArgumentException("coupon.release.waves 는 >= 1");
+            }
+            if (window == null || window.dividedBy(waves).toMillis() < 1) {
+                throw new IllegalArgumentException("coupon.release.window / waves 는 1ms 이상이어야 함.");
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.gangnam.coupon.release;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 웨이브 릴리스 스케줄러
+ * - coupon.release.enabled = true 일 때만 등록
+ * - tick 마다 도래한 웨이브를 릴리스 ( 이미 반영된 웨이브면 UPDATE 0건 )
+ * - tick 간격 : coupon.release.tick-millis ( 기본 1초 ) => 웨이브 시각 대비 최대 지연
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        value = "coupon.release.enabled",
+        havingValue = "true"
+)
+public class CouponReleaseScheduler {
+
+    private final CouponReleaser releaser;
+
+    @Scheduled(fixedDelayString = "${coupon.release.tick-millis:1000}")
+    public void tick() {
+        releaser.releaseDue();
+    }
+}
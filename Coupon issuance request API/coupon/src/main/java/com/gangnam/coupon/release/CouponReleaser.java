@@ -0,0 +1,95 @@
+package com.gangnam.coupon.release;
+
+import com.gangnam.coupon.repository.CouponInventoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * CouponReleaser
+ * - 현재 시각까지 도래한 웨이브의 누적 목표치까지 코드별 재고를 릴리스
+ *
+ * 보장
+ * - 원자성 / 정확성 : 전체 코드에 대한 단일 조건부 UPDATE ( releaseUpTo ) 로 목표치 차이만큼만 반영
+ * - 목표치는 행의 total 기준 => 시드 목록과 무관하게 모든 재고 행이 릴리스 대상
+ * - 재시작 내성 : 진행 상태 ( released ) 가 DB 에 있고 목표치는 시각으로만 계산
+ *   => 재시작 / 틱 누락 후 호출 시 밀린 웨이브를 한 번에 따라잡음
+ * - 다중 인스턴스 : 같은 목표치에 대해 한 번만 반영됨 ( released < target 조건 )
+ *
+ * 호출 시점
+ * - 기동 완료 ( 시드 이후 ) : 기존 행 total 보정 후, 웨이브 비활성화 시 전체, 활성화 시 도래한 웨이브까지
+ * - CouponReleaseScheduler tick
+ * - 게이트가 시계보다 뒤처졌을 때 요청 경로에서 ( releaseIfBehind )
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponReleaser {
+
+    private final CouponInventoryRepository inventoryRepository;
+    private final CouponReleasePlan plan;
+    private final CouponReleaseGate gate;
+
+    private final ReentrantLock lock = new ReentrantLock(); // 인스턴스 내 릴리스 직렬화
+
+    // ApplicationRunner ( 시드 ) 이후 발행됨
+    @EventListener(ApplicationReadyEvent.class)
+    public void releaseOnStartup() {
+        // 웨이브 릴리스 도입 전 행 ( total = 0 ) 먼저 보정
+        int backfilled = inventoryRepository.backfillTotal();
+        if (backfilled > 0) {
+            log.info("[RELEASE] 기존 재고 행 total 보정. 대상 코드 수: {}", backfilled);
+        }
+        releaseDue();
+    }
+
+    public void releaseDue() {
+        releaseDue(Instant.now());
+    }
+
+    public void releaseDue(Instant now) {
+        // 마지막 웨이브까지 열림 => 더 풀 재고 없음, 트랜잭션 / UPDATE 생략 ( 재시작 시엔 releaseOnStartup 이 따라잡음 )
+        if (gate.openedWave() >= plan.waves() && plan.wavesDueAt(now) == plan.waves()) return;
+
+        lock.lock();
+        try {
+            release(now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 도래한 웨이브가 아직 게이트에 열리지 않았을 때만 즉시 릴리스 ( 다음 tick 을 기다리지 않음 )
+     * - 다른 스레드가 릴리스 중이면 대기하지 않고 반환 => 요청 스레드가 줄 서지 않음
+     */
+    public void releaseIfBehind(Instant now) {
+        if (plan.wavesDueAt(now) <= gate.openedWave()) return;
+        if (!lock.tryLock()) return;
+        try {
+            release(now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(Instant now) {
+        int due = plan.wavesDueAt(now);
+
+        // 단일 트랜잭션 ( 커밋 후 게이트 재개 ) - 호출자는 트랜잭션 밖이어야 함
+        int affected = inventoryRepository.releaseUpTo(due, plan.waves());
+        if (affected > 0) {
+            log.info("[RELEASE] 웨이브 {}/{} 릴리스. 대상 코드 수: {}", due, plan.waves(), affected);
+        }
+
+        // 이 인스턴스가 반영했거나, 다른 인스턴스가 반영한 새 웨이브가 도래한 경우
+        if (affected > 0 || due > gate.openedWave()) {
+            gate.reopen(due);
+        }
+    }
+}
@@ -5,13 +5,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 /**
  * 쿠폰 재고 ( coupon_inventory) Repository
  *
- * - 조건부 감소 ( Conditional Decrement ) : stcok > 0 일 때만 원자적으로 1 감소
+ * - 조건부 감소 ( Conditional Decrement ) : stcok > 0 && available > 0 일 때만 원자적으로 1 감소
+ * - 웨이브 릴리스 : 누적 릴리스 목표치까지 available 을 원자적으로 보충
  * - 초기 데이터 UPSERT : PostgerSQL ON CONFLICT 를 사용해 멱등하게 삽입
  */
 public interface CouponInventoryRepository extends JpaRepository<CouponInventory, Long> {
@@ -20,25 +22,61 @@ public interface CouponInventoryRepository extends JpaRepository<CouponInventory
 
     /**
      * 조건부 감소 ( Conditional Decrement )
-     * stock > 0 인 경우만 stock = stock - 1 을 수행.
+     * stock > 0 && available > 0 인 경우만 stock, available 을 각각 1 감소.
+     * - available = 0 이면 아직 다음 웨이브가 풀리지 않은 상태
      * 반환값 ( Affected Rows ) 로 성공/실패 판단
      */
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE CouponInventory c " +
-            "SET c.stock = c.stock - 1 " +
-            "WHERE c.id = :id AND c.stock > 0")
+            "SET c.stock = c.stock - 1, c.available = c.available - 1 " +
+            "WHERE c.id = :id AND c.stock > 0 AND c.available > 0")
     int decrementIfInStock(@Param("id") Long id);
 
+    /**
+     * 웨이브 릴리스 ( 누적 목표치까지 보충 )
+     * 행별 목표치 target = total * due / waves ( 정수 나눗셈 => 마지막 웨이브에서 정확히 total )
+     * released < target 인 행만 차이 ( target - released ) 만큼 available 을 늘리고 released = target 으로 기록.
+     * - 모든 코드를 단일 UPDATE 로 처리 => 한 웨이브가 코드 전체에 대해 원자적
+     * - 동시에 여러 인스턴스가 실행해도 한 번만 반영 ( 정확히 target 까지 )
+     * - 목표치가 누적값이라 재시작 / 틱 누락 후 다시 호출해도 밀린 웨이브를 한 번에 따라잡음 ( 멱등 )
+     * - SET 우변은 갱신 전 값 기준으로 평가됨
+     * @param due 도래한 웨이브 수
+     * @param waves 전체 웨이브 수
+     * @return 릴리스된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE CouponInventory c " +
+            "SET c.available = c.available + (c.total * :due / :waves - c.released), " +
+            "    c.released = c.total * :due / :waves " +
+            "WHERE c.released < c.total * :due / :waves")
+    int releaseUpTo(@Param("due") int due, @Param("waves") int waves);
+
+    /**
+     * 웨이브 릴리스 도입 이전 행 보정
+     * - 컬럼 추가 시 total = released = 0 으로 채워진 기존 행은 목표치가 항상 0 => 영원히 릴리스되지 않음
+     * - 남은 재고 ( stock ) 를 total 로 삼아 이후 웨이브로 풀리게 함
+     * - 릴리스 이력이 없는 행만 대상 => 반복 실행해도 무해 ( 멱등 )
+     * @return 보정된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE CouponInventory c " +
+            "SET c.total = c.stock " +
+            "WHERE c.total = 0 AND c.released = 0 AND c.stock > 0")
+    int backfillTotal();
+
     /**
      * 초기 재고 데이터 UPSERT
      *  INSERT ... ON CONFLICT (code) DO NOTHING
      *  - 존재하지 않으면 새로 삽입
      *  - 이미 존재( UNIQUE 충동 시 ) 하면 아무 작업 x
+     *  - 삽입 직후엔 available = 0 : 재고는 CouponReleaser 가 웨이브 단위로 풀어줌
      */
     @Modifying
     @Query(value = """
-                    INSERT INTO coupon_inventory(code, stock)
-                    VALUES (:code, :initialStock)
+                    INSERT INTO coupon_inventory(code, total, stock, available, released)
+                    VALUES (:code, :initialStock, :initialStock, 0, 0)
                     ON CONFLICT (code) DO NOTHING
             """, nativeQuery = true)
     int insertIgnoreConflict(@Param("code") String code, @Param("initialStock") int initialStock);
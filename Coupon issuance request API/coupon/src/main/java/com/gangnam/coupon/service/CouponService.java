@@ -3,26 +3,33 @@ package com.gangnam.coupon.service;
 import com.gangnam.coupon.domain.CouponInventory;
 import com.gangnam.coupon.domain.CouponIssued;
 import com.gangnam.coupon.domain.CouponIssuedFactory;
+import com.gangnam.coupon.release.CouponReleaseGate;
+import com.gangnam.coupon.release.CouponReleaser;
 import com.gangnam.coupon.repository.CouponInventoryRepository;
 import com.gangnam.coupon.repository.CouponIssuedRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * CouponService
  * - 쿠폰 발급 비즈니스 로직을 담당하는 서비스 계층.
+ * 0. 모든 코드가 현재 웨이브에서 소진 -> DB 접근 없이 throw NotYetReleasedException / SoldOutException
+ *    - 트랜잭션 시작 ( 커넥션 획득 ) 전에 판단 => 웨이브 사이 요청은 커넥션 풀도 쓰지 않음
+ *    - 이 경우 이미 발급된 유저도 AlreadyIssued 대신 429 / 품절 응답 ( 발급 이력 조회 없이 판단하기 때문 )
+ * --- 이하 TransactionTemplate 트랜잭션 내부 ---
  * 1. 유저가 발급 받은 적이 있는지 확인 -> throw AlreadyIssuedException
  * 2. List 에 ["A","B","C"]  넣고 재고 차감
  *   1) 쿠폰이 있는지 확인 - code로
- *   2) 조건부 감소 decrementIfInStock - 없으면 쿠폰 코드 x
+ *   2) 조건부 감소 decrementIfInStock - 없으면 쿠폰 코드 x ( 실패 시 소진 표시 )
  *   3) issue 엔티티 생성 -> save
- * 3. 모두 실패 시 품절
+ * 3. 모두 실패 시 다음 웨이브가 남았으면 재시도 안내, 없으면 품절
  */
 @Service
 @RequiredArgsConstructor
@@ -30,9 +37,36 @@ public class CouponService {
 
     private final CouponInventoryRepository inventoryRepository;
     private final CouponIssuedRepository issuedRepository;
+    private final CouponReleaseGate releaseGate;
+    private final CouponReleaser releaser;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
-    public Long issueCoupon(Long userId) {
+    private static final List<String> COUPON_CODES = List.of("A", "B", "C");
+
+    /**
+     * 쿠폰 발급 진입점 ( 트랜잭션 밖 )
+     * - 게이트 확인 후에만 트랜잭션을 시작
+     * - 같은 빈 내부 호출이라 @Transactional 프록시 대신 TransactionTemplate 사용
+     * @param userId 유저 ID
+     * @return 발급 행 ID
+     */
+    public Long issueOneForUser(Long userId) {
+        // 0. 현재 웨이브 소진 -> DB 접근 없이 즉시 응답
+        if (releaseGate.allDrained(COUPON_CODES)) {
+            // 웨이브 시각이 지났는데 tick 전이면 직접 릴리스 후 재확인
+            releaser.releaseIfBehind(Instant.now());
+            if (releaseGate.allDrained(COUPON_CODES)) {
+                throw exhausted();
+            }
+        }
+
+        // 이번 요청이 관측한 게이트 세대 ( 차감 실패 표시가 새 웨이브를 덮지 않도록 )
+        long generation = releaseGate.generation();
+
+        return transactionTemplate.execute(status -> issueCoupon(userId, generation));
+    }
+
+    private Long issueCoupon(Long userId, long generation) {
 
         // 1. 유저가 발급 받은 적이 있는지 확인 -> throw AlreadyIssuedException
         if (issuedRepository.existsByUserId(userId)) {
@@ -40,9 +74,9 @@ public class CouponService {
         }
 
         // List 에 ["A","B","C"]  넣고 재고 차감
-        List<String> coupon = List.of("A", "B", "C");
+        for (String code : COUPON_CODES) {
+            if (releaseGate.isDrained(code)) continue; // 이번 웨이브 소진
 
-        for (String code : coupon) {
             // 2-1. 쿠폰이 있는지 확인 - code로
             Optional<CouponInventory> inventory = inventoryRepository.findByCode(code);
             if (inventory.isEmpty()) {
@@ -51,7 +85,10 @@ public class CouponService {
 
             // 2-2. 조건부 감소 decrementIfInStock - 없으면 쿠폰 코드 x
             int updated = inventoryRepository.decrementIfInStock(inventory.get().getId());
-            if (updated == 0) continue; // 재고 없음.
+            if (updated == 0) { // 재고 없음 ( 또는 다음 웨이브 대기 )
+                releaseGate.markDrained(code, generation);
+                continue;
+            }
 
             // 2-3. issue 엔티티 생성 -> save
             try {
@@ -62,6 +99,15 @@ public class CouponService {
                 throw new AlreadyIssuedException(" 이미 발급된 유저임 ");
             }
         }
-        throw new SoldOutException("모든 쿠폰 재고가 소진되었습니다.");
+        throw exhausted();
+    }
+
+    // 열리지 않은 웨이브가 있으면 그 시각 안내, 마지막 웨이브까지 열렸으면 품절
+    private RuntimeException exhausted() {
+        Optional<Instant> retryAt = releaseGate.retryAt();
+        if (retryAt.isPresent()) {
+            return new NotYetReleasedException("현재 풀린 쿠폰 재고가 소진되었습니다. 다음 릴리스 시각: " + retryAt.get(), retryAt.get());
+        }
+        return new SoldOutException("모든 쿠폰 재고가 소진되었습니다.");
     }
 }
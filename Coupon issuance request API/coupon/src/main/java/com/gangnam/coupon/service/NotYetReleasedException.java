@@ -0,0 +1,19 @@
+package com.gangnam.coupon.service;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 현재 웨이브 재고 소진 ( 다음 웨이브 대기 )
+ * - retryAt : 다음 웨이브 시각
+ */
+@Getter
+public class NotYetReleasedException extends RuntimeException {
+    private final Instant retryAt;
+
+    public NotYetReleasedException(String message, Instant retryAt) {
+        super(message);
+        this.retryAt = retryAt;
+    }
+}
@@ -1,12 +1,14 @@
 package com.gangnam.coupon.web.advice;
 
 import com.gangnam.coupon.service.AlreadyIssuedException;
+import com.gangnam.coupon.service.NotYetReleasedException;
 import com.gangnam.coupon.service.SoldOutException;
 import com.gangnam.coupon.web.response.ApiResponse;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MissingServletRequestParameterException;
@@ -14,6 +16,9 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Duration;
+import java.time.Instant;
+
 import static com.gangnam.coupon.web.support.ErrorResponses.formatViolations;
 import static com.gangnam.coupon.web.support.ErrorResponses.wrap;
 
@@ -21,6 +26,7 @@ import static com.gangnam.coupon.web.support.ErrorResponses.wrap;
  * 예외 -> HTTP 상태코드 + ApiResponse 매핑
  * - SoldOutException : 409 (CONFLICT)
  * - AlreadyIssuedException : 409
+ * - NotYetReleasedException : 429 (TOO_MANY_REQUESTS) + Retry-After
  * - EntityNotFoundException : 404 (NOT_FOUND)
  */
 @Slf4j
@@ -39,6 +45,16 @@ public class GlobalExceptionHandler {
         return wrap(HttpStatus.CONFLICT, e.getMessage());
     }
 
+    // 현재 웨이브 소진 → 429 + Retry-After ( 다음 웨이브까지 남은 초, 올림 - 웨이브 전에 도착하지 않도록 )
+    @ExceptionHandler(NotYetReleasedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleNotYetReleased(NotYetReleasedException e) {
+        long millis = Duration.between(Instant.now(), e.getRetryAt()).toMillis();
+        long seconds = Math.max(1, (millis + 999) / 1000);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        return wrap(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), headers);
+    }
+
     // 엔티티 없음 → 404
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ApiResponse<Void>> handleNotFound(EntityNotFoundException e) {
@@ -2,6 +2,7 @@ package com.gangnam.coupon.web.support;
 
 import com.gangnam.coupon.web.response.ApiResponse;
 import jakarta.validation.ConstraintViolation;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -22,6 +23,11 @@ public final class ErrorResponses {
         return ResponseEntity.status(status).body(ApiResponse.error(message));
     }
 
+    /** wrap + 헤더 ( 예: Retry-After ) */
+    public static ResponseEntity<ApiResponse<Void>> wrap(HttpStatus status, String message, HttpHeaders headers) {
+        return ResponseEntity.status(status).headers(headers).body(ApiResponse.error(message));
+    }
+
     /** Bean Validation 위반들을 사람이 읽기 쉬운 문자열로 병합 */
     public static String formatViolations(Set<? extends ConstraintViolation<?>> violations) {
         if (violations == null || violations.isEmpty()) return "";
@@ -0,0 +1,71 @@
+package com.gangnam.coupon.release;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CouponReleaseGate 단위 테스트
+ * - start-at 10:00, window 10m, waves 10 => 1분 간격
+ */
+class CouponReleaseGateTest {
+
+    private static final OffsetDateTime START = OffsetDateTime.parse("2026-10-20T10:00:00+09:00");
+
+    private final CouponReleasePlan plan = CouponReleasePlan.from(
+            new CouponReleaseProperties(true, START, Duration.ofMinutes(10), 10));
+
+    private final CouponReleaseGate gate = new CouponReleaseGate(plan);
+
+    @Test
+    @DisplayName("현재 세대의 소진 표시는 reopen 전까지 유지")
+    void markInCurrentGenerationDrains() {
+        gate.markDrained("A", gate.generation());
+        gate.markDrained("B", gate.generation());
+
+        assertThat(gate.isDrained("A")).isTrue();
+        assertThat(gate.allDrained(List.of("A", "B"))).isTrue();
+        assertThat(gate.allDrained(List.of("A", "B", "C"))).isFalse();
+
+        gate.reopen(1);
+        assertThat(gate.isDrained("A")).isFalse();
+    }
+
+    @Test
+    @DisplayName("이전 세대에서 관측한 느린 요청의 표시는 새 웨이브를 막지 않음")
+    void staleMarkDoesNotDrainAfterReopen() {
+        long observed = gate.generation(); // 요청 시작
+        gate.reopen(1);                    // 그 사이 새 웨이브 릴리스
+        gate.markDrained("A", observed);   // 이전 웨이브 기준 차감 실패 표시
+
+        assertThat(gate.isDrained("A")).isFalse();
+        assertThat(gate.allDrained(List.of("A"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("재시도 시각은 아직 열리지 않은 웨이브 시각, 마지막 웨이브가 열린 뒤에만 empty")
+    void retryAtFollowsOpenedWave() {
+        // 아무 웨이브도 열리지 않음 => 첫 웨이브
+        assertThat(gate.retryAt()).contains(START.toInstant());
+
+        // 3개 열림 => 4번째 ( index 3 ) 웨이브 시각, 시계가 이미 지났더라도 동일
+        gate.reopen(3);
+        assertThat(gate.retryAt()).contains(plan.waveAt(3));
+
+        // 더 작은 값으로 reopen 해도 후퇴하지 않음
+        gate.reopen(2);
+        assertThat(gate.openedWave()).isEqualTo(3);
+
+        // 마지막 직전 => 아직 품절 아님
+        gate.reopen(9);
+        assertThat(gate.retryAt()).contains(plan.waveAt(9));
+
+        gate.reopen(10);
+        assertThat(gate.retryAt()).isEmpty();
+    }
+}
@@ -0,0 +1,74 @@
+package com.gangnam.coupon.release;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CouponReleasePlan 단위 테스트
+ * - start-at 10:00, window 10m, waves 10 => 1분 간격, 웨이브 시각 10:00 ~ 10:09
+ */
+class CouponReleasePlanTest {
+
+    private static final OffsetDateTime START = OffsetDateTime.parse("2026-10-20T10:00:00+09:00");
+
+    private final CouponReleasePlan plan = CouponReleasePlan.from(
+            new CouponReleaseProperties(true, START, Duration.ofMinutes(10), 10));
+
+    private static Instant at(Duration sinceStart) {
+        return START.toInstant().plus(sinceStart);
+    }
+
+    @Test
+    @DisplayName("start-at 이전엔 도래한 웨이브 없음, start-at 시각에 첫 웨이브")
+    void wavesDueAroundStart() {
+        assertThat(plan.wavesDueAt(at(Duration.ofMillis(-1)))).isZero();
+        assertThat(plan.wavesDueAt(at(Duration.ZERO))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("간격 경계에서 정확히 다음 웨이브가 도래")
+    void wavesDueAtIntervalBoundaries() {
+        assertThat(plan.wavesDueAt(at(Duration.ofMinutes(1).minusMillis(1)))).isEqualTo(1);
+        assertThat(plan.wavesDueAt(at(Duration.ofMinutes(1)))).isEqualTo(2);
+        assertThat(plan.wavesDueAt(at(Duration.ofMinutes(9).minusMillis(1)))).isEqualTo(9);
+        assertThat(plan.wavesDueAt(at(Duration.ofMinutes(9)))).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("마지막 웨이브 이후엔 waves 로 고정")
+    void wavesDueAfterWindow() {
+        assertThat(plan.wavesDueAt(at(Duration.ofHours(1)))).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("웨이브 시각 - index 번째 웨이브는 start-at + index * 간격")
+    void waveAt() {
+        assertThat(plan.waveAt(0)).isEqualTo(START.toInstant());
+        assertThat(plan.waveAt(9)).isEqualTo(at(Duration.ofMinutes(9)));
+        assertThat(plan.wavesDueAt(plan.waveAt(9))).isEqualTo(plan.waves());
+    }
+
+    @Test
+    @DisplayName("비활성화 시 단일 웨이브로 전체 즉시 릴리스")
+    void disabledReleasesEverythingAtOnce() {
+        CouponReleasePlan immediate = CouponReleasePlan.from(
+                new CouponReleaseProperties(false, null, Duration.ofMinutes(10), 10));
+
+        assertThat(immediate.waves()).isEqualTo(1);
+        assertThat(immediate.wavesDueAt(Instant.now())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("활성화 시 start-at 누락이면 설정 오류")
+    void enabledRequiresStartAt() {
+        assertThatThrownBy(() -> new CouponReleaseProperties(true, null, Duration.ofMinutes(10), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
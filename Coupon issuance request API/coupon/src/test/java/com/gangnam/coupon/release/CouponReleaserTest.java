@@ -0,0 +1,188 @@
+package com.gangnam.coupon.release;
+
+import com.gangnam.coupon.domain.CouponInventory;
+import com.gangnam.coupon.domain.CouponInventoryFactory;
+import com.gangnam.coupon.repository.CouponInventoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 웨이브 릴리스 ( releaseUpTo / CouponReleaser ) 통합 테스트
+ * - 임베디드 DB 위에서 실제 UPDATE 로 정확성 / 멱등성 / 재시작 후 따라잡기 확인
+ * - A = 1, B = 30, C = 69 / waves 10
+ */
+@DataJpaTest
+class CouponReleaserTest {
+
+    private static final OffsetDateTime START = OffsetDateTime.parse("2026-10-20T10:00:00+09:00");
+
+    @Autowired
+    private CouponInventoryRepository inventoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final CouponReleasePlan plan = CouponReleasePlan.from(
+            new CouponReleaseProperties(true, START, Duration.ofMinutes(10), 10));
+
+    @BeforeEach
+    void setUp() {
+        inventoryRepository.saveAndFlush(CouponInventoryFactory.create("A", 1));
+        inventoryRepository.saveAndFlush(CouponInventoryFactory.create("B", 30));
+        inventoryRepository.saveAndFlush(CouponInventoryFactory.create("C", 69));
+    }
+
+    private static Instant at(Duration sinceStart) {
+        return START.toInstant().plus(sinceStart);
+    }
+
+    private CouponInventory find(String code) {
+        return inventoryRepository.findByCode(code).orElseThrow();
+    }
+
+    private void assertReleased(String code, int expected) {
+        CouponInventory inventory = find(code);
+        assertThat(inventory.getReleased()).isEqualTo(expected);
+        assertThat(inventory.getAvailable()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("같은 목표치로 두 번 릴리스해도 정확히 target 만큼만 반영")
+    void releaseUpToSameTargetTwiceIsExact() {
+        // 3번째 웨이브 : A = 1*3/10 = 0, B = 9, C = 20
+        assertThat(inventoryRepository.releaseUpTo(3, 10)).isEqualTo(2);
+        assertThat(inventoryRepository.releaseUpTo(3, 10)).isZero();
+
+        assertReleased("A", 0);
+        assertReleased("B", 9);
+        assertReleased("C", 20);
+    }
+
+    @Test
+    @DisplayName("나누어 떨어지지 않는 수량 ( A = 1 ) 은 마지막 웨이브에서 정확히 total")
+    void unevenSplitReachesTotalOnLastWave() {
+        for (int due = 1; due < 10; due++) {
+            inventoryRepository.releaseUpTo(due, 10);
+            assertReleased("A", 0);
+        }
+        inventoryRepository.releaseUpTo(10, 10);
+        assertReleased("A", 1);
+    }
+
+    @Test
+    @DisplayName("웨이브별 릴리스는 단조 증가하고 합은 total")
+    void releasedIsMonotonicAndSumsToTotal() {
+        int previous = 0;
+        int sum = 0;
+        for (int due = 1; due <= 10; due++) {
+            inventoryRepository.releaseUpTo(due, 10);
+            int released = find("C").getReleased();
+            assertThat(released).isGreaterThanOrEqualTo(previous);
+            sum += released - previous;
+            previous = released;
+        }
+        assertThat(sum).isEqualTo(69);
+        assertReleased("C", 69);
+    }
+
+    @Test
+    @DisplayName("발급으로 줄어든 available 은 같은 웨이브에서 다시 채워지지 않음")
+    void issuedStockIsNotReleasedAgain() {
+        inventoryRepository.releaseUpTo(3, 10);
+        assertThat(inventoryRepository.decrementIfInStock(find("B").getId())).isEqualTo(1);
+
+        inventoryRepository.releaseUpTo(3, 10);
+
+        CouponInventory b = find("B");
+        assertThat(b.getReleased()).isEqualTo(9);
+        assertThat(b.getAvailable()).isEqualTo(8);
+        assertThat(b.getStock()).isEqualTo(29);
+    }
+
+    @Test
+    @DisplayName("재시작 ( 새 인스턴스 ) 후에도 중복 없이 밀린 웨이브를 정확히 따라잡음")
+    void releaserCatchesUpExactlyAfterRestart() {
+        CouponReleaser beforeRestart = new CouponReleaser(inventoryRepository, plan, new CouponReleaseGate(plan));
+        beforeRestart.releaseDue(at(Duration.ofMinutes(2))); // 3번째 웨이브까지
+
+        // 재시작 : 메모리 상태 없이 새로 생성
+        CouponReleaseGate gate = new CouponReleaseGate(plan);
+        CouponReleaser afterRestart = new CouponReleaser(inventoryRepository, plan, gate);
+
+        afterRestart.releaseDue(at(Duration.ofMinutes(2)));
+        assertThat(gate.openedWave()).isEqualTo(3);
+        assertReleased("A", 0);
+        assertReleased("B", 9);
+        assertReleased("C", 20);
+
+        // 중단된 동안 window 종료 => 한 번에 total 까지
+        afterRestart.releaseDue(at(Duration.ofMinutes(30)));
+        assertThat(gate.openedWave()).isEqualTo(10);
+        assertThat(gate.retryAt()).isEmpty();
+        assertReleased("A", 1);
+        assertReleased("B", 30);
+        assertReleased("C", 69);
+    }
+
+    @Test
+    @DisplayName("게이트가 시계보다 뒤처졌을 때만 요청 경로에서 릴리스")
+    void releaseIfBehindOnlyWhenGateIsBehind() {
+        CouponReleaseGate gate = new CouponReleaseGate(plan);
+        CouponReleaser releaser = new CouponReleaser(inventoryRepository, plan, gate);
+
+        // start-at 이전 : 도래한 웨이브 없음 => 아무 것도 안 함
+        releaser.releaseIfBehind(at(Duration.ofMillis(-1)));
+        assertThat(gate.openedWave()).isZero();
+        assertReleased("B", 0);
+
+        // 3번째 웨이브 시각이 지났지만 tick 전 => 즉시 릴리스
+        releaser.releaseIfBehind(at(Duration.ofMinutes(2)));
+        assertThat(gate.openedWave()).isEqualTo(3);
+        assertReleased("B", 9);
+    }
+
+    @Test
+    @DisplayName("마지막 웨이브가 열린 뒤의 tick 은 UPDATE 를 수행하지 않음")
+    void releaseDueIsNoOpAfterFinalWave() {
+        CouponReleaseGate gate = new CouponReleaseGate(plan);
+        CouponReleaser releaser = new CouponReleaser(inventoryRepository, plan, gate);
+        releaser.releaseDue(at(Duration.ofMinutes(9)));
+        assertThat(gate.openedWave()).isEqualTo(10);
+
+        // window 이후 생긴 행 : UPDATE 가 실행됐다면 릴리스되었을 것
+        inventoryRepository.saveAndFlush(CouponInventoryFactory.create("D", 5));
+        releaser.releaseDue(at(Duration.ofMinutes(30)));
+
+        assertReleased("D", 0);
+    }
+
+    @Test
+    @DisplayName("웨이브 릴리스 도입 전 행 ( total = 0 ) 도 기동 시 보정되어 발급 가능")
+    void legacyRowIsBackfilledAndIssuable() {
+        // 컬럼 추가 직후 상태 : stock 은 남아있지만 total = available = released = 0
+        entityManager.getEntityManager()
+                .createNativeQuery("INSERT INTO coupon_inventory(code, total, stock, available, released) " +
+                        "VALUES ('L', 0, 5, 0, 0)")
+                .executeUpdate();
+
+        // 비활성화 ( 기존 동작 ) : 기동 시 전체 릴리스
+        CouponReleasePlan immediate = CouponReleasePlan.from(
+                new CouponReleaseProperties(false, null, Duration.ofMinutes(10), 10));
+        new CouponReleaser(inventoryRepository, immediate, new CouponReleaseGate(immediate)).releaseOnStartup();
+
+        CouponInventory legacy = find("L");
+        assertThat(legacy.getTotal()).isEqualTo(5);
+        assertThat(legacy.getAvailable()).isEqualTo(5);
+        assertThat(inventoryRepository.decrementIfInStock(legacy.getId())).isEqualTo(1);
+    }
+}
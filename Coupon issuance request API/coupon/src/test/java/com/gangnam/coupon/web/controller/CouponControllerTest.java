@@ -0,0 +1,78 @@
+package com.gangnam.coupon.web.controller;
+
+import com.gangnam.coupon.release.CouponReleaseGate;
+import com.gangnam.coupon.release.CouponReleasePlan;
+import com.gangnam.coupon.release.CouponReleaseProperties;
+import com.gangnam.coupon.release.CouponReleaser;
+import com.gangnam.coupon.repository.CouponInventoryRepository;
+import com.gangnam.coupon.repository.CouponIssuedRepository;
+import com.gangnam.coupon.service.CouponService;
+import com.gangnam.coupon.web.advice.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * CouponController 웹 테스트 ( 웨이브 사이 요청 )
+ * - 실제 Gate / Releaser / Service 에 저장소와 트랜잭션만 mock
+ * - 모든 코드가 소진된 상태에서 429 + Retry-After 응답, DB / 트랜잭션 접근 없음
+ */
+class CouponControllerTest {
+
+    private final CouponInventoryRepository inventoryRepository = mock(CouponInventoryRepository.class);
+    private final CouponIssuedRepository issuedRepository = mock(CouponIssuedRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private CouponReleaseGate gate;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // 첫 웨이브가 90초 뒤
+        OffsetDateTime start = OffsetDateTime.now().plusSeconds(90);
+        CouponReleasePlan plan = CouponReleasePlan.from(
+                new CouponReleaseProperties(true, start, Duration.ofMinutes(10), 10));
+        gate = new CouponReleaseGate(plan);
+        CouponReleaser releaser = new CouponReleaser(inventoryRepository, plan, gate);
+        CouponService service = new CouponService(
+                inventoryRepository, issuedRepository, gate, releaser, transactionTemplate);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new CouponController(service))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("웨이브 사이 소진 상태 => 429 + 올림한 Retry-After, 저장소 / 트랜잭션 미사용")
+    void drainedBetweenWavesReturnsRetryAfterWithoutTouchingDb() throws Exception {
+        long generation = gate.generation();
+        gate.markDrained("A", generation);
+        gate.markDrained("B", generation);
+        gate.markDrained("C", generation);
+
+        MvcResult result = mockMvc.perform(post("/api/coupons/issue/1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.success").value(false))
+                .andReturn();
+
+        // 남은 시간 90초 미만 => 올림 시 90
+        long retryAfter = Long.parseLong(result.getResponse().getHeader("Retry-After"));
+        assertThat(retryAfter).isBetween(89L, 90L);
+
+        verifyNoInteractions(inventoryRepository, issuedRepository, transactionTemplate);
+    }
+}